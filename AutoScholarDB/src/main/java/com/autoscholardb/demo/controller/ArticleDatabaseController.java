@@ -2,34 +2,66 @@ package com.autoscholardb.demo.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.autoscholardb.demo.model.Articles.ArticleChangeSet;
 import com.autoscholardb.demo.model.Articles.ArticleEntity;
+import com.autoscholardb.demo.model.Articles.KeywordFacet;
 import com.autoscholardb.demo.services.ArticleDatabaseService;
+import com.autoscholardb.demo.services.KeywordExtractionService;
 
 @RestController
 @RequestMapping("/db/articles") // Base path for database operations
 public class ArticleDatabaseController {
 
+    // Upper bound for ?limit= on the keyword facet endpoint
+    private static final int MAX_FACET_LIMIT = 100;
+
     private final ArticleDatabaseService articleDatabaseService;
+    private final KeywordExtractionService keywordExtractionService;
 
-    public ArticleDatabaseController(ArticleDatabaseService articleDatabaseService) {
+    public ArticleDatabaseController(ArticleDatabaseService articleDatabaseService,
+            KeywordExtractionService keywordExtractionService) {
         this.articleDatabaseService = articleDatabaseService;
+        this.keywordExtractionService = keywordExtractionService;
     }
 
     /**
      * Endpoint to fetch all articles stored in the PostgreSQL database.
+     * Maps to: GET http://localhost:8080/db/articles[?keyword=...]
      * 
-     * @return A list of all articles (ArticleEntity) as JSON.
+     * @param keyword     Optional keyword; when present only articles tagged with
+     *                    it are returned.
+     * @param ifNoneMatch ETag from the client's previous response, if any.
+     * @return A list of all articles (ArticleEntity) as JSON, or 304 Not
+     *         Modified when nothing changed since the given ETag.
      */
     @GetMapping
-    public ResponseEntity<List<ArticleEntity>> getAllArticles() {
+    public ResponseEntity<List<ArticleEntity>> getAllArticles(
+            @RequestParam(required = false) String keyword,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            List<ArticleEntity> articles = articleDatabaseService.findAllArticles();
-            return ResponseEntity.ok(articles);
+            // Read the version before the rows: if a write lands in between, the
+            // ETag is older than the body and the next poll simply gets a 200 again
+            String eTag = eTagFor(articleDatabaseService.getCurrentVersion());
+            if (eTagMatches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+
+            List<ArticleEntity> articles = (keyword == null || keyword.isBlank())
+                    ? articleDatabaseService.findAllArticles()
+                    : articleDatabaseService.findArticlesByKeyword(keyword);
+            return ResponseEntity.ok().eTag(eTag).body(articles);
         } catch (Exception e) {
             // Log the exception for server-side debugging
             System.err.println("Database fetch error: " + e.getMessage());
@@ -37,4 +69,124 @@ public class ArticleDatabaseController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * Delta sync endpoint: returns only the articles inserted, updated or deleted
+     * after the given version.
+     * Maps to: GET http://localhost:8080/db/articles/changes?since=42
+     * 
+     * @param since       The "version" from the client's previous change set (0
+     *                    for a full load).
+     * @param ifNoneMatch ETag from the client's previous response, if any.
+     * @return An ArticleChangeSet as JSON, or 304 Not Modified when nothing
+     *         changed since the given ETag.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChangesSince(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (since < 0) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", "since cannot be negative."));
+        }
+        try {
+            long version = articleDatabaseService.getCurrentVersion();
+            String eTag = eTagFor(version);
+            if (eTagMatches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+
+            ArticleChangeSet changes = articleDatabaseService.findChangesSince(since, version);
+            return ResponseEntity.ok().eTag(eTag).body(changes);
+        } catch (Exception e) {
+            System.err.println("Database change fetch error: " + e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Endpoint to delete a saved article. The deletion is reported to delta sync
+     * clients through GET /db/articles/changes.
+     * Maps to: DELETE http://localhost:8080/db/articles/{id}
+     * 
+     * @param id The id of the article to delete.
+     * @return 204 No Content, or 404 if the article does not exist.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteArticle(@PathVariable Long id) {
+        try {
+            if (!articleDatabaseService.deleteArticle(id)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(java.util.Map.of("error", "Article " + id + " not found."));
+            }
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            System.err.println("Error deleting article from database: " + e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(java.util.Map.of("error", "Could not delete article: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Endpoint for the keyword facet: the most common keywords with the number
+     * of articles tagged with each.
+     * Maps to: GET http://localhost:8080/db/articles/keywords?limit=20
+     * 
+     * @param limit Maximum number of keywords to return (default 20, at most
+     *              100).
+     * @return A list of KeywordFacet objects as JSON.
+     */
+    @GetMapping("/keywords")
+    public ResponseEntity<?> getKeywordFacets(@RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_FACET_LIMIT) {
+            return ResponseEntity.badRequest()
+                    .body(java.util.Map.of("error", "limit must be between 1 and " + MAX_FACET_LIMIT + "."));
+        }
+        try {
+            List<KeywordFacet> facets = articleDatabaseService.findKeywordFacets(limit);
+            return ResponseEntity.ok(facets);
+        } catch (Exception e) {
+            System.err.println("Keyword facet error: " + e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Endpoint to recompute keywords for every article already in the database.
+     * Maps to: POST http://localhost:8080/db/articles/keywords/reindex
+     * 
+     * @return The number of articles that were reindexed.
+     */
+    @PostMapping("/keywords/reindex")
+    public ResponseEntity<?> reindexKeywords() {
+        try {
+            int reindexed = keywordExtractionService.reindexAllArticles();
+            return ResponseEntity.ok(java.util.Map.of("reindexedArticles", reindexed));
+        } catch (Exception e) {
+            System.err.println("Keyword reindex error: " + e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(java.util.Map.of("error", "Could not reindex keywords: " + e.getMessage()));
+        }
+    }
+
+    // The ETag is the table's change version, so comparing it costs one indexed
+    // MAX() query instead of loading and hashing every row
+    static String eTagFor(long version) {
+        return "\"" + version + "\"";
+    }
+
+    static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
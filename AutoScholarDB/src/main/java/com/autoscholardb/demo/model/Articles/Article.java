@@ -1,5 +1,9 @@
 package com.autoscholardb.demo.model.Articles;
 
+import java.util.List;
+
+import com.autoscholardb.demo.model.Author.AuthorInterest;
+
 public class Article {
     private String title;
     private String publication;
@@ -7,6 +11,7 @@ public class Article {
     private String year;
     private CitedBy citedBy; // Using the CitedBy DTO for the value
     private String authors; // Assumes authors is a single string as in your example
+    private List<AuthorInterest> interests; // Author's interests, sent along on save for keyword extraction
 
     // Getters and Setters
     public String getTitle() {
@@ -56,4 +61,12 @@ public class Article {
     public void setAuthors(String authors) {
         this.authors = authors;
     }
+
+    public List<AuthorInterest> getInterests() {
+        return interests;
+    }
+
+    public void setInterests(List<AuthorInterest> interests) {
+        this.interests = interests;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.autoscholardb.demo.model.Articles;
+
+import java.util.List;
+
+// Response of GET /db/articles/changes: everything that changed after the
+// client's last known version. Inserted and updated articles both come back
+// in "upserts"; the client replaces its copy by id.
+public class ArticleChangeSet {
+    private long version; // Version to send as "since" on the next poll
+    private List<ArticleEntity> upserts;
+    private List<Long> deletedIds;
+
+    public ArticleChangeSet(long version, List<ArticleEntity> upserts, List<Long> deletedIds) {
+        this.version = version;
+        this.upserts = upserts;
+        this.deletedIds = deletedIds;
+    }
+
+    // Getters and Setters
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public List<ArticleEntity> getUpserts() {
+        return upserts;
+    }
+
+    public void setUpserts(List<ArticleEntity> upserts) {
+        this.upserts = upserts;
+    }
+
+    public List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+
+    public void setDeletedIds(List<Long> deletedIds) {
+        this.deletedIds = deletedIds;
+    }
+}
@@ -0,0 +1,63 @@
+package com.autoscholardb.demo.model.Articles;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+// Tombstone for a deleted article so delta sync clients can drop it from
+// their local copy. Versions come from the same sequence as ArticleEntity.
+@Entity
+@Table(name = "article_deletions", indexes = {
+        @Index(name = "idx_article_deletions_change_version", columnList = "change_version")
+})
+public class ArticleDeletionEntity {
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    // Default constructor required by JPA
+    public ArticleDeletionEntity() {
+    }
+
+    public ArticleDeletionEntity(Long articleId, Long changeVersion) {
+        this.articleId = articleId;
+        this.changeVersion = changeVersion;
+        this.deletedAt = Instant.now();
+    }
+
+    // Getters and Setters
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(Long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -1,16 +1,23 @@
 package com.autoscholardb.demo.model.Articles;
 
+import java.time.Instant;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 // This entity maps directly to the PostgreSQL table
 @Entity
-@Table(name = "scholarly_articles")
+@Table(name = "scholarly_articles", indexes = {
+        @Index(name = "idx_scholarly_articles_change_version", columnList = "change_version")
+})
 public class ArticleEntity {
 
     @Id
@@ -40,10 +47,32 @@ public class ArticleEntity {
     @Column(name = "cited_by")
     private Integer citedBy; // Mapped to cited_by
 
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    // Value of article_change_version_seq at the last insert/update. Used by the
+    // delta sync endpoint (GET /db/articles/changes?since=...)
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion;
+
     // Default constructor required by JPA
     public ArticleEntity() {
     }
 
+    @PrePersist
+    void onCreate() {
+        createdAt = Instant.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -108,4 +137,28 @@ public class ArticleEntity {
     public void setCitedBy(Integer citedBy) {
         this.citedBy = citedBy;
     }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(Long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
 }
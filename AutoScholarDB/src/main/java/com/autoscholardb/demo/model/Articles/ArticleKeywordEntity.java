@@ -0,0 +1,92 @@
+package com.autoscholardb.demo.model.Articles;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+// One row per (article, keyword) pair. Indexed on keyword so facet counts and
+// keyword filters do not have to scan the comma-separated keywords column.
+@Entity
+@Table(name = "article_keywords", indexes = {
+        @Index(name = "idx_article_keywords_keyword", columnList = "keyword"),
+        @Index(name = "idx_article_keywords_article_id", columnList = "article_id")
+})
+public class ArticleKeywordEntity {
+
+    // Keyword computed from the article's own title/abstract
+    public static final String SOURCE_TFIDF = "tfidf";
+    // Keyword taken from the author's AuthorInterest topics
+    public static final String SOURCE_INTEREST = "interest";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "article_id", nullable = false)
+    private Long articleId;
+
+    @Column(name = "keyword", nullable = false)
+    private String keyword;
+
+    @Column(name = "score", nullable = false)
+    private Double score;
+
+    @Column(name = "source", nullable = false)
+    private String source;
+
+    // Default constructor required by JPA
+    public ArticleKeywordEntity() {
+    }
+
+    public ArticleKeywordEntity(Long articleId, String keyword, Double score, String source) {
+        this.articleId = articleId;
+        this.keyword = keyword;
+        this.score = score;
+        this.source = source;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+}
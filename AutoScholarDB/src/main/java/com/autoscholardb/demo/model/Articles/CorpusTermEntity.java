@@ -0,0 +1,73 @@
+package com.autoscholardb.demo.model.Articles;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+// Document frequency of a single term across all saved articles (the "DF" in
+// TF-IDF). Updated incrementally on every save and rebuilt by the batch job.
+@Entity
+@Table(name = "keyword_corpus_terms")
+public class CorpusTermEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "term")
+    private String term;
+
+    @Column(name = "document_frequency", nullable = false)
+    private Long documentFrequency;
+
+    // The id is assigned by us (the term itself), so Spring Data cannot tell new
+    // rows from existing ones. Tracking it here lets saveAll() insert directly
+    // instead of issuing a SELECT per term during the batch rebuild.
+    @Transient
+    private boolean isNew = true;
+
+    // Default constructor required by JPA
+    public CorpusTermEntity() {
+    }
+
+    public CorpusTermEntity(String term, Long documentFrequency) {
+        this.term = term;
+        this.documentFrequency = documentFrequency;
+    }
+
+    @Override
+    public String getId() {
+        return term;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    // Getters and Setters
+    public String getTerm() {
+        return term;
+    }
+
+    public void setTerm(String term) {
+        this.term = term;
+    }
+
+    public Long getDocumentFrequency() {
+        return documentFrequency;
+    }
+
+    public void setDocumentFrequency(Long documentFrequency) {
+        this.documentFrequency = documentFrequency;
+    }
+}
@@ -0,0 +1,31 @@
+package com.autoscholardb.demo.model.Articles;
+
+// Read-only DTO for the keyword facet endpoint: a keyword and how many saved
+// articles carry it.
+public class KeywordFacet {
+    private String keyword;
+    private Long articleCount;
+
+    // Used by the JPQL constructor expression in ArticleKeywordRepository
+    public KeywordFacet(String keyword, Long articleCount) {
+        this.keyword = keyword;
+        this.articleCount = articleCount;
+    }
+
+    // Getters and Setters
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public Long getArticleCount() {
+        return articleCount;
+    }
+
+    public void setArticleCount(Long articleCount) {
+        this.articleCount = articleCount;
+    }
+}
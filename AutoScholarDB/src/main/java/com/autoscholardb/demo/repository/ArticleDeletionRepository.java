@@ -0,0 +1,18 @@
+package com.autoscholardb.demo.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.autoscholardb.demo.model.Articles.ArticleDeletionEntity;
+
+@Repository
+public interface ArticleDeletionRepository extends JpaRepository<ArticleDeletionEntity, Long> {
+
+    List<ArticleDeletionEntity> findByChangeVersionBetweenOrderByChangeVersionAsc(Long from, Long to);
+
+    @Query("SELECT MAX(d.changeVersion) FROM ArticleDeletionEntity d")
+    Long findMaxChangeVersion();
+}
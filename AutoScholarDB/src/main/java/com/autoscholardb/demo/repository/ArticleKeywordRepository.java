@@ -0,0 +1,34 @@
+package com.autoscholardb.demo.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.autoscholardb.demo.model.Articles.ArticleKeywordEntity;
+import com.autoscholardb.demo.model.Articles.KeywordFacet;
+
+@Repository
+public interface ArticleKeywordRepository extends JpaRepository<ArticleKeywordEntity, Long> {
+
+    List<ArticleKeywordEntity> findBySource(String source);
+
+    boolean existsByArticleId(Long articleId);
+
+    // Keyword facet: most common keywords first, served from the keyword index
+    @Query("SELECT new com.autoscholardb.demo.model.Articles.KeywordFacet(k.keyword, COUNT(DISTINCT k.articleId)) "
+            + "FROM ArticleKeywordEntity k GROUP BY k.keyword ORDER BY COUNT(DISTINCT k.articleId) DESC, k.keyword")
+    List<KeywordFacet> findKeywordFacets(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ArticleKeywordEntity k WHERE k.articleId = :articleId")
+    void deleteByArticleId(@Param("articleId") Long articleId);
+
+    @Modifying
+    @Query("DELETE FROM ArticleKeywordEntity k WHERE k.source = :source")
+    void deleteBySource(@Param("source") String source);
+}
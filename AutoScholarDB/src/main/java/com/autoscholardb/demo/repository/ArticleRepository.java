@@ -3,6 +3,8 @@ package com.autoscholardb.demo.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.autoscholardb.demo.model.Articles.ArticleEntity;
@@ -13,4 +15,32 @@ public interface ArticleRepository extends JpaRepository<ArticleEntity, Long> {
     // Spring Data JPA automatically generates the query for findAll (equivalent to
     // SELECT * FROM scholarly_articles)
     List<ArticleEntity> findAll();
+
+    // Keyword filter backed by the indexed article_keywords table
+    @Query("SELECT a FROM ArticleEntity a WHERE a.id IN "
+            + "(SELECT k.articleId FROM ArticleKeywordEntity k WHERE k.keyword = :keyword)")
+    List<ArticleEntity> findByKeyword(@Param("keyword") String keyword);
+
+    // Delta sync: rows whose change_version lies in [from, to], served from the
+    // change_version index
+    List<ArticleEntity> findByChangeVersionBetweenOrderByChangeVersionAsc(Long from, Long to);
+
+    @Query("SELECT MAX(a.changeVersion) FROM ArticleEntity a")
+    Long findMaxChangeVersion();
+
+    // Takes the transaction-scoped writer lock without allocating a version.
+    // Writers must take it before any other write so they always lock in the
+    // same order (writer lock first, then rows) and cannot deadlock.
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('scholarly_articles_changes'))) "
+            + "AS writer_lock", nativeQuery = true)
+    Integer acquireWriterLock();
+
+    // Allocates the next change version. The transaction-scoped advisory lock
+    // serializes writers until commit, so versions become visible in order and a
+    // poller can never skip past a version that commits later. The lock is
+    // re-entrant, so calling this after acquireWriterLock() is fine.
+    @Query(value = "SELECT nextval('article_change_version_seq') "
+            + "FROM (SELECT pg_advisory_xact_lock(hashtext('scholarly_articles_changes'))) AS writer_lock",
+            nativeQuery = true)
+    Long nextChangeVersion();
 }
@@ -0,0 +1,31 @@
+package com.autoscholardb.demo.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.autoscholardb.demo.model.Articles.CorpusTermEntity;
+
+@Repository
+public interface CorpusTermRepository extends JpaRepository<CorpusTermEntity, String> {
+
+    // PostgreSQL upsert so concurrent saves never lose an increment
+    @Modifying
+    @Query(value = "INSERT INTO keyword_corpus_terms (term, document_frequency) VALUES (:term, 1) "
+            + "ON CONFLICT (term) DO UPDATE SET document_frequency = keyword_corpus_terms.document_frequency + 1",
+            nativeQuery = true)
+    void incrementDocumentFrequency(@Param("term") String term);
+
+    @Modifying
+    @Query("UPDATE CorpusTermEntity t SET t.documentFrequency = t.documentFrequency - 1 WHERE t.term IN :terms")
+    void decrementDocumentFrequencies(@Param("terms") Collection<String> terms);
+
+    // Drops terms that no saved article contains any more
+    @Modifying
+    @Query("DELETE FROM CorpusTermEntity t WHERE t.term IN :terms AND t.documentFrequency <= 0")
+    void deleteUnusedTerms(@Param("terms") Collection<String> terms);
+}
@@ -1,21 +1,38 @@
 package com.autoscholardb.demo.services;
 
 import java.util.List;
+import java.util.Locale;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.autoscholardb.demo.model.Articles.Article; // Assuming your Article DTO is here
+import com.autoscholardb.demo.model.Articles.ArticleChangeSet;
+import com.autoscholardb.demo.model.Articles.ArticleDeletionEntity;
 import com.autoscholardb.demo.model.Articles.ArticleEntity;
+import com.autoscholardb.demo.model.Articles.KeywordFacet;
+import com.autoscholardb.demo.repository.ArticleDeletionRepository;
+import com.autoscholardb.demo.repository.ArticleKeywordRepository;
 import com.autoscholardb.demo.repository.ArticleRepository;
 
 @Service
 public class ArticleDatabaseService {
 
     private final ArticleRepository articleRepository;
+    private final ArticleKeywordRepository articleKeywordRepository;
+    private final ArticleDeletionRepository articleDeletionRepository;
+    private final KeywordExtractionService keywordExtractionService;
 
-    // Dependency injection of the repository
-    public ArticleDatabaseService(ArticleRepository articleRepository) {
+    // Dependency injection of the repositories and the keyword stage
+    public ArticleDatabaseService(ArticleRepository articleRepository,
+            ArticleKeywordRepository articleKeywordRepository,
+            ArticleDeletionRepository articleDeletionRepository,
+            KeywordExtractionService keywordExtractionService) {
         this.articleRepository = articleRepository;
+        this.articleKeywordRepository = articleKeywordRepository;
+        this.articleDeletionRepository = articleDeletionRepository;
+        this.keywordExtractionService = keywordExtractionService;
     }
 
     /**
@@ -27,12 +44,89 @@ public class ArticleDatabaseService {
         return articleRepository.findAll();
     }
 
+    /**
+     * Retrieves the articles tagged with the given keyword.
+     * 
+     * @param keyword The keyword to filter by (case-insensitive).
+     * @return A list of matching ArticleEntity objects.
+     */
+    public List<ArticleEntity> findArticlesByKeyword(String keyword) {
+        return articleRepository.findByKeyword(keyword.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Retrieves the most common keywords with the number of articles for each.
+     * 
+     * @param limit Maximum number of keywords to return.
+     * @return A list of KeywordFacet objects, most common first.
+     */
+    public List<KeywordFacet> findKeywordFacets(int limit) {
+        return articleKeywordRepository.findKeywordFacets(PageRequest.of(0, limit));
+    }
+
+    /**
+     * Returns the latest committed change version of the articles table
+     * (inserts, updates and deletes). 0 when nothing was ever saved.
+     * 
+     * @return The current change version.
+     */
+    public long getCurrentVersion() {
+        Long articles = articleRepository.findMaxChangeVersion();
+        Long deletions = articleDeletionRepository.findMaxChangeVersion();
+        return Math.max(articles == null ? 0 : articles, deletions == null ? 0 : deletions);
+    }
+
+    /**
+     * Collects the articles inserted, updated or deleted after the given
+     * version, up to and including the given current version.
+     * 
+     * @param since   The last version the client has seen.
+     * @param version The current version, as returned by getCurrentVersion().
+     * @return The ArticleChangeSet for the (since, version] window.
+     */
+    public ArticleChangeSet findChangesSince(long since, long version) {
+        if (since >= version) {
+            return new ArticleChangeSet(version, List.of(), List.of());
+        }
+        List<ArticleEntity> upserts = articleRepository
+                .findByChangeVersionBetweenOrderByChangeVersionAsc(since + 1, version);
+        List<Long> deletedIds = articleDeletionRepository
+                .findByChangeVersionBetweenOrderByChangeVersionAsc(since + 1, version).stream()
+                .map(ArticleDeletionEntity::getArticleId)
+                .toList();
+        return new ArticleChangeSet(version, upserts, deletedIds);
+    }
+
+    /**
+     * Deletes an article with its keywords and records a tombstone so delta
+     * sync clients learn about the deletion.
+     * 
+     * @param id The id of the article to delete.
+     * @return true if the article existed and was deleted, false otherwise.
+     */
+    @Transactional
+    public boolean deleteArticle(Long id) {
+        // Take the writer lock (with the version) before touching any row, the
+        // same order saveArticle uses
+        Long changeVersion = articleRepository.nextChangeVersion();
+
+        ArticleEntity article = articleRepository.findById(id).orElse(null);
+        if (article == null) {
+            return false;
+        }
+        keywordExtractionService.removeArticle(article);
+        articleRepository.delete(article);
+        articleDeletionRepository.save(new ArticleDeletionEntity(id, changeVersion));
+        return true;
+    }
+
     /**
      * Maps an Article DTO to an ArticleEntity and saves it to the database.
      * 
      * @param articleDto The DTO received from the client (containing Article data).
      * @return The saved ArticleEntity.
      */
+    @Transactional
     public ArticleEntity saveArticle(Article articleDto) {
         ArticleEntity entity = new ArticleEntity();
 
@@ -62,6 +156,13 @@ public class ArticleDatabaseService {
         entity.setAbstractText("");
         entity.setKeywords("");
 
-        return articleRepository.save(entity);
+        // The keyword update below runs in the same transaction, so one version
+        // covers both writes
+        entity.setChangeVersion(articleRepository.nextChangeVersion());
+
+        ArticleEntity saved = articleRepository.save(entity);
+
+        // 4. Fill keywords from the title/abstract and the author's interests
+        return keywordExtractionService.extractKeywords(saved, articleDto.getInterests());
     }
 }
\ No newline at end of file
@@ -0,0 +1,328 @@
+package com.autoscholardb.demo.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.autoscholardb.demo.model.Articles.ArticleEntity;
+import com.autoscholardb.demo.model.Articles.ArticleKeywordEntity;
+import com.autoscholardb.demo.model.Articles.CorpusTermEntity;
+import com.autoscholardb.demo.model.Author.AuthorInterest;
+import com.autoscholardb.demo.repository.ArticleKeywordRepository;
+import com.autoscholardb.demo.repository.ArticleRepository;
+import com.autoscholardb.demo.repository.CorpusTermRepository;
+
+/**
+ * Service that fills the keywords of saved articles.
+ *
+ * - Scores the terms of each article's title + abstract with TF-IDF
+ * - Keeps corpus document frequencies in keyword_corpus_terms, updated
+ * incrementally on every save
+ * - Blends in the author's AuthorInterest topics that the article touches
+ * - Writes one row per keyword to article_keywords (indexed for filtering) and
+ * a comma-separated copy to the article's keywords column
+ * - Can rebuild everything for existing rows with a fork-join batch job
+ */
+@Service
+public class KeywordExtractionService {
+
+    // Number of TF-IDF keywords kept per article
+    private static final int MAX_KEYWORDS = 10;
+    private static final int MIN_TERM_LENGTH = 3;
+    // Weight of an AuthorInterest topic relative to the TF-IDF scores
+    private static final double INTEREST_WEIGHT = 0.5;
+    // Articles handled by a single fork-join leaf before splitting further
+    private static final int BATCH_SPLIT_THRESHOLD = 64;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "the", "and", "for", "with", "from", "into", "onto", "that", "this", "these", "those", "are", "was",
+            "were", "been", "being", "has", "have", "had", "not", "but", "its", "our", "their", "his", "her",
+            "via", "using", "use", "based", "towards", "toward", "through", "between", "among", "about", "over",
+            "under", "within", "without", "new", "study", "analysis", "approach", "case", "also", "can", "may",
+            "how", "what", "when", "where", "which", "who", "why", "una", "los", "las", "del", "para", "con",
+            "por", "que", "sus", "como", "sobre", "entre");
+
+    private final ArticleRepository articleRepository;
+    private final ArticleKeywordRepository articleKeywordRepository;
+    private final CorpusTermRepository corpusTermRepository;
+
+    public KeywordExtractionService(ArticleRepository articleRepository,
+            ArticleKeywordRepository articleKeywordRepository,
+            CorpusTermRepository corpusTermRepository) {
+        this.articleRepository = articleRepository;
+        this.articleKeywordRepository = articleKeywordRepository;
+        this.corpusTermRepository = corpusTermRepository;
+    }
+
+    /**
+     * Extracts and stores keywords for a freshly saved article. Runs inline in
+     * the caller's transaction.
+     *
+     * @param article   The persisted ArticleEntity (must already have an id).
+     * @param interests The author's interests, may be null or empty.
+     * @return The same entity with its keywords column filled.
+     */
+    @Transactional
+    public ArticleEntity extractKeywords(ArticleEntity article, List<AuthorInterest> interests) {
+        Map<String, Integer> termCounts = countTerms(article);
+
+        // 1. Add this article to the corpus document frequencies
+        termCounts.keySet().forEach(corpusTermRepository::incrementDocumentFrequency);
+
+        // 2. Score the article's terms against the updated corpus
+        Map<String, Long> documentFrequency = new HashMap<>();
+        corpusTermRepository.findAllById(termCounts.keySet())
+                .forEach(term -> documentFrequency.put(term.getTerm(), term.getDocumentFrequency()));
+        Map<String, Double> scores = scoreTerms(termCounts, documentFrequency, articleRepository.count());
+
+        // 3. Blend the TF-IDF terms with the author's interests
+        List<ArticleKeywordEntity> rows = new ArrayList<>();
+        topTerms(scores).forEach((term, score) -> rows
+                .add(new ArticleKeywordEntity(article.getId(), term, score, ArticleKeywordEntity.SOURCE_TFIDF)));
+        matchInterests(termCounts.keySet(), interests).forEach((topic, score) -> rows
+                .add(new ArticleKeywordEntity(article.getId(), topic, score, ArticleKeywordEntity.SOURCE_INTEREST)));
+
+        articleKeywordRepository.deleteByArticleId(article.getId());
+        articleKeywordRepository.saveAll(rows);
+
+        article.setKeywords(joinKeywords(rows));
+        return articleRepository.save(article);
+    }
+
+    /**
+     * Removes an article that is about to be deleted from the keyword table and
+     * the corpus document frequencies. Articles without keyword rows (saved
+     * before keyword extraction existed and never reindexed) were never counted
+     * in the corpus, so their terms are left alone.
+     *
+     * @param article The ArticleEntity being deleted.
+     */
+    @Transactional
+    public void removeArticle(ArticleEntity article) {
+        Set<String> terms = countTerms(article).keySet();
+        if (!terms.isEmpty() && articleKeywordRepository.existsByArticleId(article.getId())) {
+            corpusTermRepository.decrementDocumentFrequencies(terms);
+            corpusTermRepository.deleteUnusedTerms(terms);
+        }
+        articleKeywordRepository.deleteByArticleId(article.getId());
+    }
+
+    /**
+     * Recomputes corpus document frequencies and TF-IDF keywords for every saved
+     * article. Tokenizing and scoring are split across a fork-join pool; the
+     * database writes happen afterwards on the calling thread. Interest keywords
+     * are kept as they were, since the author's interests are only known at save
+     * time. Only articles whose keywords actually change get a new change
+     * version, so delta sync clients do not re-download the whole table.
+     *
+     * @return The number of articles reindexed.
+     */
+    @Transactional
+    public int reindexAllArticles() {
+        // Writer lock before any write, so a concurrent save cannot hold it while
+        // waiting on rows this job deletes
+        articleRepository.acquireWriterLock();
+
+        List<ArticleEntity> articles = articleRepository.findAll();
+        if (articles.isEmpty()) {
+            return 0;
+        }
+
+        // 1. Count terms per article and document frequencies in parallel
+        CorpusStats stats = countCorpus(articles);
+
+        // 2. Score every article against the complete corpus in parallel
+        long totalDocuments = articles.size();
+        Map<Long, Map<String, Double>> keywordsByArticle = ForkJoinPool.commonPool()
+                .submit(() -> stats.termCounts.entrySet().parallelStream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> topTerms(
+                                scoreTerms(entry.getValue(), stats.documentFrequency, totalDocuments)))))
+                .join();
+
+        // 3. Replace the corpus and the TF-IDF keyword rows
+        corpusTermRepository.deleteAllInBatch();
+        corpusTermRepository.saveAll(stats.documentFrequency.entrySet().stream()
+                .map(entry -> new CorpusTermEntity(entry.getKey(), entry.getValue()))
+                .toList());
+
+        Map<Long, List<ArticleKeywordEntity>> interestRows = articleKeywordRepository
+                .findBySource(ArticleKeywordEntity.SOURCE_INTEREST).stream()
+                .collect(Collectors.groupingBy(ArticleKeywordEntity::getArticleId));
+        articleKeywordRepository.deleteBySource(ArticleKeywordEntity.SOURCE_TFIDF);
+
+        List<ArticleKeywordEntity> tfidfRows = new ArrayList<>();
+        Long changeVersion = null; // One version for the whole batch, allocated on first change
+        for (ArticleEntity article : articles) {
+            List<ArticleKeywordEntity> rows = new ArrayList<>();
+            keywordsByArticle.getOrDefault(article.getId(), Map.of()).forEach((term, score) -> rows
+                    .add(new ArticleKeywordEntity(article.getId(), term, score, ArticleKeywordEntity.SOURCE_TFIDF)));
+            tfidfRows.addAll(rows);
+
+            rows.addAll(interestRows.getOrDefault(article.getId(), List.of()));
+            String keywords = joinKeywords(rows);
+            if (!keywords.equals(article.getKeywords())) {
+                if (changeVersion == null) {
+                    changeVersion = articleRepository.nextChangeVersion();
+                }
+                article.setKeywords(keywords);
+                article.setChangeVersion(changeVersion);
+            }
+        }
+        articleKeywordRepository.saveAll(tfidfRows);
+        articleRepository.saveAll(articles);
+
+        return articles.size();
+    }
+
+    /**
+     * Splits text into lower-case terms, dropping stop words, short tokens and
+     * pure numbers.
+     */
+    List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.length() >= MIN_TERM_LENGTH && !STOP_WORDS.contains(token) && !isNumeric(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    Map<String, Integer> countTerms(ArticleEntity article) {
+        Map<String, Integer> counts = new HashMap<>();
+        tokenize(article.getTitle()).forEach(term -> counts.merge(term, 1, Integer::sum));
+        tokenize(article.getAbstractText()).forEach(term -> counts.merge(term, 1, Integer::sum));
+        return counts;
+    }
+
+    // tf = count / terms in the article, idf = smoothed log(N / df)
+    static Map<String, Double> scoreTerms(Map<String, Integer> termCounts,
+            Map<String, Long> documentFrequency, long totalDocuments) {
+        int totalTerms = termCounts.values().stream().mapToInt(Integer::intValue).sum();
+        Map<String, Double> scores = new HashMap<>();
+        if (totalTerms == 0) {
+            return scores;
+        }
+        termCounts.forEach((term, count) -> {
+            double tf = (double) count / totalTerms;
+            long df = documentFrequency.getOrDefault(term, 1L);
+            double idf = Math.log((1.0 + totalDocuments) / (1.0 + df)) + 1.0;
+            scores.put(term, tf * idf);
+        });
+        return scores;
+    }
+
+    static Map<String, Double> topTerms(Map<String, Double> scores) {
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_KEYWORDS)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * Keeps the interest topics that share at least one term with the article.
+     * The score is the fraction of the topic's terms found in the article.
+     */
+    Map<String, Double> matchInterests(Set<String> articleTerms, List<AuthorInterest> interests) {
+        Map<String, Double> topics = new LinkedHashMap<>();
+        if (interests == null) {
+            return topics;
+        }
+        for (AuthorInterest interest : interests) {
+            if (interest == null || interest.getTitle() == null || interest.getTitle().isBlank()) {
+                continue;
+            }
+            List<String> topicTerms = tokenize(interest.getTitle());
+            if (topicTerms.isEmpty()) {
+                continue;
+            }
+            long matched = topicTerms.stream().filter(articleTerms::contains).count();
+            if (matched > 0) {
+                String topic = interest.getTitle().trim().toLowerCase(Locale.ROOT);
+                topics.merge(topic, INTEREST_WEIGHT * matched / topicTerms.size(), Math::max);
+            }
+        }
+        return topics;
+    }
+
+    // Highest scoring first, one entry per keyword
+    static String joinKeywords(List<ArticleKeywordEntity> rows) {
+        return rows.stream()
+                .sorted(Comparator.comparing(ArticleKeywordEntity::getScore).reversed())
+                .map(ArticleKeywordEntity::getKeyword)
+                .distinct()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static boolean isNumeric(String token) {
+        return token.chars().allMatch(Character::isDigit);
+    }
+
+    // Term counts per article and corpus document frequencies, computed by
+    // splitting the articles across the common fork-join pool
+    CorpusStats countCorpus(List<ArticleEntity> articles) {
+        return ForkJoinPool.commonPool().invoke(new TermCountTask(articles, 0, articles.size()));
+    }
+
+    // Per-article term counts plus corpus document frequencies for a slice of
+    // articles. Slices are merged as the fork-join tasks complete.
+    static final class CorpusStats {
+        final Map<Long, Map<String, Integer>> termCounts = new HashMap<>();
+        final Map<String, Long> documentFrequency = new HashMap<>();
+
+        private CorpusStats merge(CorpusStats other) {
+            termCounts.putAll(other.termCounts);
+            other.documentFrequency.forEach((term, df) -> documentFrequency.merge(term, df, Long::sum));
+            return this;
+        }
+    }
+
+    private final class TermCountTask extends RecursiveTask<CorpusStats> {
+        private final List<ArticleEntity> articles;
+        private final int from;
+        private final int to;
+
+        private TermCountTask(List<ArticleEntity> articles, int from, int to) {
+            this.articles = articles;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected CorpusStats compute() {
+            if (to - from <= BATCH_SPLIT_THRESHOLD) {
+                CorpusStats stats = new CorpusStats();
+                for (int i = from; i < to; i++) {
+                    ArticleEntity article = articles.get(i);
+                    Map<String, Integer> counts = countTerms(article);
+                    stats.termCounts.put(article.getId(), counts);
+                    counts.keySet().forEach(term -> stats.documentFrequency.merge(term, 1L, Long::sum));
+                }
+                return stats;
+            }
+            int middle = (from + to) >>> 1;
+            TermCountTask left = new TermCountTask(articles, from, middle);
+            TermCountTask right = new TermCountTask(articles, middle, to);
+            left.fork();
+            CorpusStats rightStats = right.compute();
+            return left.join().merge(rightStats);
+        }
+    }
+}
@@ -5,6 +5,16 @@ const viewDbButton = document.getElementById('viewDbButton');
 
 // Global store for articles retrieved from the last API search
 let currentArticles = [];
+// Interests of the author from the last API search (used for keyword extraction on save)
+let currentInterests = [];
+
+// Local copy of the database table, kept up to date with /db/articles/changes so
+// "View DB" only downloads what changed since the previous click
+const dbCache = {
+    version: 0,
+    eTag: null,
+    articles: new Map(),
+};
 
 // ----------------------------------------------------------------------
 // Function to handle saving an article to the database
@@ -71,6 +81,7 @@ async function saveArticleToDb(articleData, button) {
 function createAuthorTableHTML(authorInfo) {
     // Store the articles globally for later use by the "Add" buttons
     currentArticles = authorInfo.articles || [];
+    currentInterests = authorInfo.interests || [];
 
     let html = `
         <h1>${authorInfo.name} Articles (from SerpAPI)</h1>
@@ -147,6 +158,7 @@ function createDatabaseTableHTML(articles) {
                         <!-- RENAMED for clarity: this column contains PUBLICATION NAME + YEAR -->
                         <th>Publication Info (Date)</th> 
                         <th>Cited By</th>
+                        <th>Keywords</th>
                         <th>Link</th>
                     </tr>
                 </thead>
@@ -163,12 +175,13 @@ function createDatabaseTableHTML(articles) {
                     <td>${article.authors || 'N/A'}</td>
                     <td>${article.publicationDate || 'N/A'}</td> 
                     <td>${article.citedBy || 0}</td>
+                    <td>${article.keywords || 'N/A'}</td>
                     <td><a href="${article.link}" target="_blank">${article.link || 'N/A'}</a></td>
                 </tr>
             `;
         });
     } else {
-        html += `<tr><td colspan="6">The database currently contains no saved articles.</td></tr>`;
+        html += `<tr><td colspan="7">The database currently contains no saved articles.</td></tr>`;
     }
 
     html += `
@@ -179,6 +192,51 @@ function createDatabaseTableHTML(articles) {
     return html;
 }
 
+// ----------------------------------------------------------------------
+// Functions to keep the local database copy in sync
+// ----------------------------------------------------------------------
+
+/**
+ * Applies an ArticleChangeSet (upserts + deletedIds) to the local cache.
+ * @param {object} changeSet - The ArticleChangeSet returned by /db/articles/changes.
+ */
+function applyChangeSet(changeSet) {
+    changeSet.upserts.forEach(article => dbCache.articles.set(article.id, article));
+    changeSet.deletedIds.forEach(id => dbCache.articles.delete(id));
+    dbCache.version = changeSet.version;
+}
+
+/**
+ * Fetches the changes since the last known version and applies them to the
+ * cache. A 304 Not Modified answer leaves the cache as it is.
+ * @returns {Promise<Array<object>>} The cached articles, sorted by id.
+ */
+async function syncDatabaseCache() {
+    const changesUrl = `http://localhost:8080/db/articles/changes?since=${dbCache.version}`;
+    const headers = dbCache.eTag ? { 'If-None-Match': dbCache.eTag } : {};
+
+    const response = await fetch(changesUrl, { headers });
+    if (response.status !== 304) {
+        if (!response.ok) {
+            throw new Error(`Failed to fetch database content. Status: ${response.status}`);
+        }
+        const changeSet = await response.json();
+
+        if (changeSet.version < dbCache.version) {
+            // The server is behind our copy (e.g. the database was reset): start over
+            dbCache.version = 0;
+            dbCache.eTag = null;
+            dbCache.articles.clear();
+            return syncDatabaseCache();
+        }
+
+        applyChangeSet(changeSet);
+        dbCache.eTag = response.headers.get('ETag');
+    }
+
+    return Array.from(dbCache.articles.values()).sort((a, b) => a.id - b.id);
+}
+
 // ----------------------------------------------------------------------
 // Event Listener for Form Submission (Search)
 // ----------------------------------------------------------------------
@@ -221,15 +279,8 @@ form.addEventListener('submit', function (event) {
 viewDbButton.addEventListener('click', function () {
     authorIdInput.value = '';
     contentDisplay.innerHTML = '<p class="loading-message">Loading database content from Spring Boot...</p>';
-    const dbApiUrl = 'http://localhost:8080/db/articles';
 
-    fetch(dbApiUrl)
-        .then(response => {
-            if (!response.ok) {
-                throw new Error(`Failed to fetch database content. Status: ${response.status}`);
-            }
-            return response.json();
-        })
+    syncDatabaseCache()
         .then(articlesList => {
             const htmlContent = createDatabaseTableHTML(articlesList);
             contentDisplay.innerHTML = htmlContent;
@@ -253,7 +304,8 @@ contentDisplay.addEventListener('click', function (event) {
         const index = button.getAttribute('data-index');
 
         if (index !== null && currentArticles[index]) {
-            const articleToSave = currentArticles[index];
+            // Send the author's interests along so the server can blend them into the keywords
+            const articleToSave = { ...currentArticles[index], interests: currentInterests };
             // Call the save function with the article data and the button element
             saveArticleToDb(articleToSave, button);
         } else {
@@ -0,0 +1,42 @@
+package com.autoscholardb.demo.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ArticleDatabaseControllerTests {
+
+	private static final String ETAG = ArticleDatabaseController.eTagFor(42);
+
+	@Test
+	void eTagIsTheQuotedVersion() {
+		assertEquals("\"42\"", ETAG);
+	}
+
+	@Test
+	void eTagMatchesExactAndWeakTags() {
+		assertTrue(ArticleDatabaseController.eTagMatches("\"42\"", ETAG));
+		assertTrue(ArticleDatabaseController.eTagMatches("W/\"42\"", ETAG));
+	}
+
+	@Test
+	void eTagMatchesAnyEntryOfACommaList() {
+		assertTrue(ArticleDatabaseController.eTagMatches("\"7\", W/\"42\" ,\"9\"", ETAG));
+		assertFalse(ArticleDatabaseController.eTagMatches("\"7\", \"9\"", ETAG));
+	}
+
+	@Test
+	void eTagMatchesWildcard() {
+		assertTrue(ArticleDatabaseController.eTagMatches("*", ETAG));
+	}
+
+	@Test
+	void eTagDoesNotMatchMissingOrDifferentTags() {
+		assertFalse(ArticleDatabaseController.eTagMatches(null, ETAG));
+		assertFalse(ArticleDatabaseController.eTagMatches("  ", ETAG));
+		assertFalse(ArticleDatabaseController.eTagMatches("\"41\"", ETAG));
+		assertFalse(ArticleDatabaseController.eTagMatches("42", ETAG));
+	}
+}
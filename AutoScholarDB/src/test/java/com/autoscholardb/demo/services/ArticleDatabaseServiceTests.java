@@ -0,0 +1,82 @@
+package com.autoscholardb.demo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.autoscholardb.demo.model.Articles.ArticleChangeSet;
+import com.autoscholardb.demo.model.Articles.ArticleDeletionEntity;
+import com.autoscholardb.demo.model.Articles.ArticleEntity;
+import com.autoscholardb.demo.repository.ArticleDeletionRepository;
+import com.autoscholardb.demo.repository.ArticleKeywordRepository;
+import com.autoscholardb.demo.repository.ArticleRepository;
+
+class ArticleDatabaseServiceTests {
+
+	private ArticleRepository articleRepository;
+	private ArticleDeletionRepository articleDeletionRepository;
+	private ArticleDatabaseService service;
+
+	@BeforeEach
+	void setUp() {
+		articleRepository = mock(ArticleRepository.class);
+		articleDeletionRepository = mock(ArticleDeletionRepository.class);
+		service = new ArticleDatabaseService(articleRepository, mock(ArticleKeywordRepository.class),
+				articleDeletionRepository, mock(KeywordExtractionService.class));
+	}
+
+	@Test
+	void currentVersionIsTheLargerOfArticlesAndDeletions() {
+		when(articleRepository.findMaxChangeVersion()).thenReturn(5L);
+		when(articleDeletionRepository.findMaxChangeVersion()).thenReturn(8L);
+		assertEquals(8, service.getCurrentVersion());
+
+		when(articleRepository.findMaxChangeVersion()).thenReturn(12L);
+		assertEquals(12, service.getCurrentVersion());
+	}
+
+	@Test
+	void currentVersionIsZeroForAnEmptyDatabase() {
+		when(articleRepository.findMaxChangeVersion()).thenReturn(null);
+		when(articleDeletionRepository.findMaxChangeVersion()).thenReturn(null);
+
+		assertEquals(0, service.getCurrentVersion());
+	}
+
+	@Test
+	void changesSinceTheCurrentVersionAreEmptyWithoutQuerying() {
+		ArticleChangeSet changes = service.findChangesSince(9, 9);
+
+		assertEquals(9, changes.getVersion());
+		assertTrue(changes.getUpserts().isEmpty());
+		assertTrue(changes.getDeletedIds().isEmpty());
+		verifyNoInteractions(articleRepository, articleDeletionRepository);
+
+		// A client ahead of the server (e.g. after a database reset) gets no changes either
+		assertEquals(9, service.findChangesSince(15, 9).getVersion());
+		verifyNoInteractions(articleRepository, articleDeletionRepository);
+	}
+
+	@Test
+	void changesCoverTheWindowAfterSinceUpToTheVersion() {
+		ArticleEntity updated = new ArticleEntity();
+		updated.setId(3L);
+		when(articleRepository.findByChangeVersionBetweenOrderByChangeVersionAsc(6L, 9L))
+				.thenReturn(List.of(updated));
+		when(articleDeletionRepository.findByChangeVersionBetweenOrderByChangeVersionAsc(6L, 9L))
+				.thenReturn(List.of(new ArticleDeletionEntity(4L, 7L), new ArticleDeletionEntity(2L, 9L)));
+
+		ArticleChangeSet changes = service.findChangesSince(5, 9);
+
+		assertEquals(9, changes.getVersion());
+		assertEquals(List.of(updated), changes.getUpserts());
+		assertEquals(List.of(4L, 2L), changes.getDeletedIds());
+	}
+}
@@ -0,0 +1,133 @@
+package com.autoscholardb.demo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.autoscholardb.demo.model.Articles.ArticleEntity;
+import com.autoscholardb.demo.model.Articles.ArticleKeywordEntity;
+import com.autoscholardb.demo.model.Author.AuthorInterest;
+import com.autoscholardb.demo.repository.ArticleKeywordRepository;
+import com.autoscholardb.demo.repository.ArticleRepository;
+import com.autoscholardb.demo.repository.CorpusTermRepository;
+
+class KeywordExtractionServiceTests {
+
+	private final KeywordExtractionService service = new KeywordExtractionService(
+			mock(ArticleRepository.class), mock(ArticleKeywordRepository.class), mock(CorpusTermRepository.class));
+
+	@Test
+	void tokenizeDropsStopWordsShortTokensAndNumbers() {
+		List<String> terms = service.tokenize("The Impact of AI on 2023 Machine-Learning in Education");
+
+		assertEquals(List.of("impact", "machine", "learning", "education"), terms);
+	}
+
+	@Test
+	void tokenizeReturnsNothingForNullOrBlankText() {
+		assertTrue(service.tokenize(null).isEmpty());
+		assertTrue(service.tokenize("   ").isEmpty());
+	}
+
+	@Test
+	void scoreTermsRanksRareTermsAboveCommonOnes() {
+		Map<String, Integer> termCounts = Map.of("learning", 1, "tomography", 1);
+		Map<String, Long> documentFrequency = Map.of("learning", 9L, "tomography", 1L);
+
+		Map<String, Double> scores = KeywordExtractionService.scoreTerms(termCounts, documentFrequency, 10);
+
+		assertTrue(scores.get("tomography") > scores.get("learning"));
+	}
+
+	@Test
+	void topTermsKeepsTheTenHighestScoresInOrder() {
+		Map<String, Double> scores = new HashMap<>();
+		for (int i = 0; i < 15; i++) {
+			scores.put("term" + i, (double) i);
+		}
+
+		Map<String, Double> top = KeywordExtractionService.topTerms(scores);
+
+		assertEquals(10, top.size());
+		assertEquals(List.of("term14", "term13", "term12", "term11", "term10", "term9", "term8", "term7", "term6",
+				"term5"), new ArrayList<>(top.keySet()));
+	}
+
+	@Test
+	void matchInterestsSkipsNullAndBlankTitles() {
+		List<AuthorInterest> interests = Arrays.asList(
+				null,
+				interest(null),
+				interest("   "),
+				interest("The Of"),
+				interest("Machine Learning"),
+				interest("Quantum Physics"));
+
+		Map<String, Double> topics = service.matchInterests(Set.of("machine", "education"), interests);
+
+		assertEquals(Map.of("machine learning", 0.25), topics);
+		assertTrue(service.matchInterests(Set.of("machine"), null).isEmpty());
+	}
+
+	@Test
+	void joinKeywordsOrdersByScoreWithoutDuplicates() {
+		List<ArticleKeywordEntity> rows = List.of(
+				new ArticleKeywordEntity(1L, "education", 0.2, ArticleKeywordEntity.SOURCE_TFIDF),
+				new ArticleKeywordEntity(1L, "learning", 0.9, ArticleKeywordEntity.SOURCE_TFIDF),
+				new ArticleKeywordEntity(1L, "education", 0.5, ArticleKeywordEntity.SOURCE_INTEREST));
+
+		assertEquals("learning, education", KeywordExtractionService.joinKeywords(rows));
+	}
+
+	@Test
+	void countCorpusMatchesSequentialCount() {
+		String[] words = { "learning", "education", "analytics", "tomography", "genome", "robotics", "climate",
+				"network", "quantum", "students", "the", "of", "2021" };
+		Random random = new Random(42);
+		List<ArticleEntity> articles = new ArrayList<>();
+		// Well above the split threshold so the task actually forks
+		for (long id = 1; id <= 500; id++) {
+			StringBuilder title = new StringBuilder();
+			for (int i = 0; i < 6; i++) {
+				title.append(words[random.nextInt(words.length)]).append(' ');
+			}
+			articles.add(article(id, title.toString()));
+		}
+
+		Map<String, Long> expected = new LinkedHashMap<>();
+		for (ArticleEntity article : articles) {
+			service.countTerms(article).keySet().forEach(term -> expected.merge(term, 1L, Long::sum));
+		}
+
+		KeywordExtractionService.CorpusStats stats = service.countCorpus(articles);
+
+		assertEquals(expected, stats.documentFrequency);
+		assertEquals(500, stats.termCounts.size());
+		assertEquals(service.countTerms(articles.get(123)), stats.termCounts.get(124L));
+	}
+
+	private static AuthorInterest interest(String title) {
+		AuthorInterest interest = new AuthorInterest();
+		interest.setTitle(title);
+		return interest;
+	}
+
+	private static ArticleEntity article(Long id, String title) {
+		ArticleEntity article = new ArticleEntity();
+		article.setId(id);
+		article.setTitle(title);
+		article.setAbstractText("");
+		return article;
+	}
+}